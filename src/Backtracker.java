@@ -11,6 +11,9 @@ public class Backtracker {
     /** Should debug output be enabled */
     private boolean debug;
 
+    /** Number of configurations visited by solve since the last reset */
+    private long nodes;
+
     /**
      * Initialize a new backtracker.
      * 
@@ -43,6 +46,7 @@ public class Backtracker {
      * @return A solution config, or null if no solution
      */
     public Optional<Configuration> solve(Configuration config) {
+        this.nodes++;
         debugPrint("Current config", config);
         if (config.isGoal()) {
             debugPrint("\tGoal config", config);
@@ -63,4 +67,21 @@ public class Backtracker {
         } 
         return Optional.empty();
     }
+
+    /**
+     * Get the number of configurations visited by solve since this
+     * backtracker was created or last reset.
+     *
+     * @return The number of visited configurations
+     */
+    public long getNodeCount() {
+        return this.nodes;
+    }
+
+    /**
+     * Reset the visited configuration count to zero.
+     */
+    public void resetNodeCount() {
+        this.nodes = 0;
+    }
 }
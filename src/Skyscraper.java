@@ -1,3 +1,4 @@
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Scanner;
 import java.io.File;
@@ -9,6 +10,9 @@ import java.io.FileNotFoundException;
  *       [filename]: The name of the board file
  *       [debug]: true or false for debug output
  *
+ *  or, to benchmark the solver (see SkyscraperBenchmark), as:
+ *  $java Skyscraper bench [warmup] [iterations] [filename...]
+ *
  *  @author RIT CS
  */
 public class Skyscraper {
@@ -18,8 +22,11 @@ public class Skyscraper {
      * @throws FileNotFoundException if file not found
      */
     public static void main(String[] args) throws FileNotFoundException {
-        if (args.length != 2) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            SkyscraperBenchmark.run(Arrays.copyOfRange(args, 1, args.length));
+        } else if (args.length != 2) {
             System.err.println("Usage: java Skyscraper file debug");
+            System.err.println("       java Skyscraper bench warmup iterations file...");
         } else {
             // pass scanner object to constructor to read initial board
             String fileName = args[0];
@@ -35,13 +42,13 @@ public class Skyscraper {
             Backtracker bt = new Backtracker(debug);
 
             // start the clock
-            double start = System.currentTimeMillis();
+            long start = System.nanoTime();
 
             // solve the puzzle
             Optional<Configuration> solution = bt.solve(initConfig);
 
             // compute the elapsed time
-            double elapsed = (System.currentTimeMillis() - start) / 1000.0;
+            double elapsed = (System.nanoTime() - start) / 1e9;
 
             // display the solution, if one exists
             if (solution.isPresent()) {
@@ -0,0 +1,185 @@
+import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Repeatable benchmark mode for the Skyscraper solver. It is run through
+ * the main Skyscraper class as:
+ *  $java Skyscraper bench [warmup] [iterations] [filename...]
+ *       [warmup]: The number of untimed solves per board before measuring
+ *       [iterations]: The number of timed solves per board
+ *       [filename...]: One or more board files making up the corpus
+ *
+ * Results are printed to standard output as a single JSON object holding
+ * the min, median, p99 and max solve latency, the nodes visited per second
+ * and the bytes allocated per solve for every board in the corpus.
+ *
+ * @author Samuel Henderson
+ */
+public class SkyscraperBenchmark {
+    /** Allocation counters for the current thread, or null if unavailable */
+    private final com.sun.management.ThreadMXBean threads;
+
+    /** Untimed solves run per board before measuring */
+    private final int warmup;
+
+    /** Timed solves run per board */
+    private final int iterations;
+
+    /**
+     * Initialize a new benchmark.
+     *
+     * @param warmup The number of untimed solves per board
+     * @param iterations The number of timed solves per board
+     */
+    public SkyscraperBenchmark(int warmup, int iterations) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+            this.threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            // Allocation is reported as -1 when the JVM cannot measure it
+            this.threads = null;
+        }
+    }
+
+    /**
+     * The benchmark entry point, called by Skyscraper with the arguments
+     * following "bench".
+     *
+     * @param args warmup, iterations and one or more board file names
+     * @throws FileNotFoundException if a board file is not found
+     */
+    public static void run(String[] args) throws FileNotFoundException {
+        if (args.length < 3) {
+            System.err.println("Usage: java Skyscraper bench warmup iterations file...");
+            return;
+        }
+
+        int warmup, iterations;
+
+        try {
+            warmup = Integer.parseInt(args[0]);
+            iterations = Integer.parseInt(args[1]);
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: java Skyscraper bench warmup iterations file...");
+            return;
+        }
+
+        if (warmup < 0 || iterations < 1) {
+            System.err.println("Warmup must be at least 0 and iterations at least 1");
+            return;
+        }
+
+        SkyscraperBenchmark bench = new SkyscraperBenchmark(warmup, iterations);
+
+        StringBuilder out = new StringBuilder();
+        out.append("{\"warmup\":").append(warmup)
+                .append(",\"iterations\":").append(iterations)
+                .append(",\"puzzles\":[");
+
+        for (int file = 2; file < args.length; file++) {
+            if (file > 2) {
+                out.append(",");
+            }
+            out.append(bench.measure(args[file]));
+        }
+
+        out.append("]}");
+        System.out.println(out);
+    }
+
+    /**
+     * Warm up and then repeatedly time the solver on a single board.
+     *
+     * @param fileName The name of the board file
+     * @return The JSON object describing the measurements for the board
+     * @throws FileNotFoundException if the board file is not found
+     */
+    public String measure(String fileName) throws FileNotFoundException {
+        // Configurations are never modified by solving, so one initial config is shared by every run
+        SkyscraperConfig initConfig = new SkyscraperConfig(fileName);
+        Backtracker bt = new Backtracker(false);
+
+        boolean solved = false;
+
+        for (int run = 0; run < this.warmup; run++) {
+            solved = bt.solve(initConfig).isPresent();
+        }
+
+        long[] latencies = new long[this.iterations];
+        long totalNanos = 0, totalNodes = 0, totalBytes = 0;
+
+        for (int run = 0; run < this.iterations; run++) {
+            bt.resetNodeCount();
+
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            Optional<Configuration> solution = bt.solve(initConfig);
+
+            long elapsed = System.nanoTime() - start;
+            long bytesAfter = allocatedBytes();
+
+            solved = solution.isPresent();
+            latencies[run] = elapsed;
+            totalNanos += elapsed;
+            totalNodes += bt.getNodeCount();
+            totalBytes += bytesAfter - bytesBefore;
+        }
+
+        Arrays.sort(latencies);
+
+        double nodesPerSecond = totalNanos == 0 ? 0 : totalNodes * 1e9 / totalNanos;
+        long bytesPerSolve = this.threads == null ? -1 : totalBytes / this.iterations;
+
+        return "{\"file\":\"" + escape(fileName) + "\""
+                + ",\"solved\":" + solved
+                + ",\"nodesPerSolve\":" + totalNodes / this.iterations
+                + ",\"minNanos\":" + latencies[0]
+                + ",\"medianNanos\":" + percentile(latencies, 50)
+                + ",\"p99Nanos\":" + percentile(latencies, 99)
+                + ",\"maxNanos\":" + latencies[latencies.length - 1]
+                + ",\"nodesPerSecond\":" + Math.round(nodesPerSecond)
+                + ",\"allocatedBytesPerSolve\":" + bytesPerSolve
+                + "}";
+    }
+
+    /**
+     * Provides the bytes allocated so far by the current thread.
+     *
+     * @return The allocated byte count, or 0 if it cannot be measured
+     */
+    private long allocatedBytes() {
+        if (this.threads == null) {
+            return 0;
+        }
+        return this.threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Provides a nearest-rank percentile of a sorted array of samples.
+     *
+     * @param sorted The samples in ascending order - must not be empty
+     * @param pct The percentile in (0, 100]
+     */
+    private static long percentile(long[] sorted, int pct) {
+        int rank = (int) Math.ceil(pct / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Escapes backslashes and quotes so a file name can be embedded in a JSON string.
+     *
+     * @param text The text to escape
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -21,6 +21,9 @@ public class SkyscraperConfig implements Configuration {
     private final int gridSize;
     private Focus gridFocus = null;
 
+    /** Line feasibility tables shared by every config of this grid size */
+    private final VisibilityTable visibility;
+
     /**
      * Constructor
      *
@@ -80,6 +83,8 @@ public class SkyscraperConfig implements Configuration {
 
         // close the input file
         f.close();
+
+        this.visibility = VisibilityTable.forSize(this.gridSize);
     }
 
     /**
@@ -91,7 +96,7 @@ public class SkyscraperConfig implements Configuration {
         // NOTE: gridSize is copied from the grid length in the field argument constructor
 
         // Pass a clone of the provided config's grid so modifying it will not affect the grid of this config
-        this(copy.grid.clone(), copy.NESW, copy.gridFocus);
+        this(copy.grid.clone(), copy.NESW, copy.gridFocus, copy.visibility);
     }
 
     /**
@@ -99,13 +104,15 @@ public class SkyscraperConfig implements Configuration {
      *
      * @param grid The integer grid - this must be a clone or discarded after it is used here
      * @param nesw The list of edge values organized by direction
+     * @param visibility The line feasibility tables for the grid size
      */
-    private SkyscraperConfig(int[][] grid, List<Integer> nesw, Focus gridFocus) {
+    private SkyscraperConfig(int[][] grid, List<Integer> nesw, Focus gridFocus, VisibilityTable visibility) {
         this.gridSize = grid.length;
         // No need to clone since the array reference will not be modified elsewhere
         this.grid = grid;
         this.NESW.addAll(nesw);
         this.gridFocus = new Focus(gridFocus.row(), gridFocus.col());
+        this.visibility = visibility;
     }
 
     @Override
@@ -118,8 +125,8 @@ public class SkyscraperConfig implements Configuration {
     /**
      * Provides the successors to the current SkyscraperConfig.
      *
-     * The returned collection will exclude successors with rows or columns containing duplicate values, and some
-     * where the new value would cause the number of visible buildings to exceed the required number from North or West.
+     * The returned collection will exclude successors with rows or columns containing duplicate values, and those
+     * where the new value leaves the focused row or column unable to meet any of its edge values.
      *
      * @return A collection of valid Configurations
      */
@@ -140,7 +147,7 @@ public class SkyscraperConfig implements Configuration {
 
             // Early prune to eliminate some successors without creating a new SkyscraperConfig
             if (validPlacement(testSuccessor)) {
-                validConfigurations.add(new SkyscraperConfig(testSuccessor, this.NESW, Focus.createIncrement(this.gridFocus, this)));
+                validConfigurations.add(new SkyscraperConfig(testSuccessor, this.NESW, Focus.createIncrement(this.gridFocus, this), this.visibility));
             }
         }
 
@@ -262,15 +269,8 @@ public class SkyscraperConfig implements Configuration {
     }
 
     /**
-     * Verifies that the provided grid does not contain duplicates in the currently focused row and column.
-     *
-     * Checks as much of the grid as is filled to determine if the new value will immediately disrupt the edge values.
-     * This is only checked from the North and West directions, as the East and South will sometimes depend on values
-     * that have not yet been placed.
-     *
-     * An important distinction is herein made between the provided grid and the grid of this SkyscraperConfiguration.
-     * Values from this grid are used to prevent duplicates because the new grid will contain the newly placed value,
-     * triggering a false negative when it is reached iteratively.
+     * Verifies that the provided grid does not contain duplicates in the currently focused row and column, and that
+     * both can still meet the edge values at either end.
      *
      * This method is called on a SkyscraperConfig when generating its successors; the parameter grid is thus a
      * successor with a new value already placed at the position determined by the gridFocus of this config.
@@ -282,45 +282,81 @@ public class SkyscraperConfig implements Configuration {
         // Get the currently focused row and column from gridFocus
         int row = this.gridFocus.row(), col = this.gridFocus.col();
 
-        // Get the new inserted value
-        int value = grid[row][col];
+        // The row is viewed from West (near) and East (far), the column from North (near) and South (far)
+        return feasibleLine(grid, row, 0, 0, 1, this.getEdge(WEST, row), this.getEdge(EAST, row))
+                && feasibleLine(grid, 0, col, 1, 0, this.getEdge(NORTH, col), this.getEdge(SOUTH, col));
+    }
+
+    /**
+     * Determines whether a line of the provided grid is free of duplicates and can still meet its edge values.
+     *
+     * The line is described by its filled prefix - every value before the first empty cell - and looked up in the
+     * visibility tables. Any values placed after the first empty cell are treated as unplaced, which can only widen
+     * the reachable ranges, so a line is never rejected unless no completion of it could meet both edge values.
+     *
+     * @param grid The grid to be scanned
+     * @param row The row of the first cell of the line
+     * @param col The column of the first cell of the line
+     * @param rowStep The row offset between consecutive cells of the line
+     * @param colStep The column offset between consecutive cells of the line
+     * @param nearEdge The edge value looking from the first cell
+     * @param farEdge The edge value looking from the last cell
+     */
+    private boolean feasibleLine(int[][] grid, int row, int col, int rowStep, int colStep, int nearEdge, int farEdge) {
 
-        // Store the visible values from West and North directions
-        Set<Integer> visibleW = new HashSet<>(), visibleN = new HashSet<>();
+        // Values seen anywhere in the line and in the filled prefix only
+        int used = 0, prefix = 0;
 
-        // Initial maximum values are the first in the row and column
-        int maxW = grid[row][0], maxN = grid[0][col];
+        // Prefix length, tallest prefix value and number of prefix values visible from the near end
+        int prefixEnd = this.gridSize, max = 0, visible = 0;
 
-        // Edge values for looking directions are needed to check that the size of either set of visible values has
-        // exceeded the edge value for its corresponding row or column
-        int edgeW = this.getEdge(WEST, row), edgeN = this.getEdge(NORTH, col);
+        for (int index = 0; index < this.gridSize; index ++) {
+            int val = grid[row + index * rowStep][col + index * colStep];
 
-        // Iterate over the row and column simultaneously
-        for(int index = 0; index < this.gridSize; index ++) {
-            // Values from successor grid
-            int valW = grid[row][index], valN = grid[index][col];
+            if (val == EMPTY) {
+                // The first empty cell ends the prefix
+                prefixEnd = Math.min(prefixEnd, index);
+                continue;
+            }
 
-            // Values from this grid
-            int oldValW = this.grid[row][index], oldValN = this.grid[index][col];
+            int bit = 1 << (val - 1);
 
-            if(oldValW == value || oldValN == value) {
-                // Grid is not valid if any value in the row or column matches the inserted value
+            if ((used & bit) != 0) {
+                // Grid is not valid if any value in the line is repeated
                 return false;
             }
 
-            // Attempt to add the current successor values to their corresponding sets - if they are added and this
-            // causes the size of either set to exceed its edge value, this method will return false and a successor
-            // will not be created from the parameter grid
-            if(compareAndAdd(maxW, valW, edgeW, visibleW) || compareAndAdd(maxN, valN, edgeN, visibleN)) {
-                return false;
+            used |= bit;
+
+            if (index < prefixEnd) {
+                prefix |= bit;
+
+                if (max < val) {
+                    max = val;
+                    visible ++;
+                }
             }
+        }
+
+        int remaining = this.visibility.fullMask() & ~prefix;
 
-            // Update the max values for visibility comparison - visibility in a direction is based on whether the
-            // current value is taller than the maximum value before it
-            maxW = Math.max(maxW, valW); maxN = Math.max(maxN, valN);
+        if (!this.visibility.nearFeasible(nearEdge, max, visible, remaining)) {
+            return false;
         }
 
-        return true;
+        // Looking from the far end, prefix values are only seen over the tallest remaining value
+        int farMax = this.visibility.largest(remaining), farVisible = 0;
+
+        for (int index = prefixEnd - 1; index >= 0; index --) {
+            int val = grid[row + index * rowStep][col + index * colStep];
+
+            if (farMax < val) {
+                farMax = val;
+                farVisible ++;
+            }
+        }
+
+        return this.visibility.farFeasible(farEdge, farVisible, remaining);
     }
 
     // Constants used in conjunction with getEdge as the lookDir parameter
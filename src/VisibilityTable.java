@@ -0,0 +1,129 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed visibility feasibility tables for a single skyscraper line length (DIM).
+ *
+ * A partially filled line is described by its filled prefix: the tallest building in the prefix, the number of
+ * buildings visible from the near end so far, and the bitmask of values that have not yet been placed in the prefix
+ * (bit v - 1 set for value v). From that description the tables give the range of visible counts that any completion
+ * of the line can still reach from either end, so checking a clue against a line is a lookup and two comparisons.
+ *
+ * Tables are immutable once built and are shared by every puzzle and thread using the same DIM.
+ *
+ * @author Samuel Henderson
+ */
+public final class VisibilityTable {
+    /** Tables already built, keyed by DIM */
+    private static final Map<Integer, VisibilityTable> TABLES = new ConcurrentHashMap<>();
+
+    /** The line length these tables describe */
+    private final int dim;
+
+    /** Mask with one bit set for every value in [1, dim] */
+    private final int fullMask;
+
+    /**
+     * Fewest and most additional buildings visible from the near end, indexed by [max * 2^dim + remaining].
+     * Only remaining values taller than the prefix max can be seen; if there are k of them, any count in [1, k] is
+     * reachable by stepping up through some of them and hiding the rest behind the tallest.
+     */
+    private final byte[] nearLow, nearHigh;
+
+    /** The tallest value in each remaining mask, or 0 for the empty mask */
+    private final byte[] largest;
+
+    /** The number of values in each remaining mask */
+    private final byte[] count;
+
+    /**
+     * Builds the tables for a DIM.
+     *
+     * @param dim The line length
+     */
+    private VisibilityTable(int dim) {
+        this.dim = dim;
+        this.fullMask = (1 << dim) - 1;
+
+        int masks = 1 << dim;
+
+        this.largest = new byte[masks];
+        this.count = new byte[masks];
+        this.nearLow = new byte[(dim + 1) * masks];
+        this.nearHigh = new byte[(dim + 1) * masks];
+
+        for (int mask = 0; mask < masks; mask++) {
+            this.largest[mask] = (byte) (32 - Integer.numberOfLeadingZeros(mask));
+            this.count[mask] = (byte) Integer.bitCount(mask);
+
+            for (int max = 0; max <= dim; max++) {
+                // Remaining values taller than max are those whose bit lies at or above index max
+                int taller = Integer.bitCount(mask >>> max);
+
+                this.nearLow[max * masks + mask] = (byte) (taller == 0 ? 0 : 1);
+                this.nearHigh[max * masks + mask] = (byte) taller;
+            }
+        }
+    }
+
+    /**
+     * Provides the shared tables for a DIM, building them on first use.
+     *
+     * @param dim The line length
+     */
+    public static VisibilityTable forSize(int dim) {
+        return TABLES.computeIfAbsent(dim, VisibilityTable::new);
+    }
+
+    /**
+     * Provides the mask with a bit set for every value in [1, DIM].
+     */
+    public int fullMask() {
+        return this.fullMask;
+    }
+
+    /**
+     * Provides the tallest value that has not yet been placed, or 0 if every value has been placed.
+     *
+     * @param remaining The mask of values not yet placed in the prefix
+     */
+    public int largest(int remaining) {
+        return this.largest[remaining];
+    }
+
+    /**
+     * Determines whether the near end clue of a line can still be met.
+     *
+     * @param clue The number of buildings that must be visible from the near end
+     * @param max The tallest value in the filled prefix, or 0 if the prefix is empty
+     * @param visible The number of prefix values visible from the near end
+     * @param remaining The mask of values not yet placed in the prefix
+     */
+    public boolean nearFeasible(int clue, int max, int visible, int remaining) {
+        int index = max * (this.fullMask + 1) + remaining;
+        return visible + this.nearLow[index] <= clue && clue <= visible + this.nearHigh[index];
+    }
+
+    /**
+     * Determines whether the far end clue of a line can still be met.
+     *
+     * The remaining values fill the far end of the line, so whatever their order at least one and at most all of them
+     * are visible from there. Prefix values can only add to that if they are taller than every remaining value.
+     *
+     * @param clue The number of buildings that must be visible from the far end
+     * @param farVisible The number of prefix values visible from the far end over the tallest remaining value
+     * @param remaining The mask of values not yet placed in the prefix
+     */
+    public boolean farFeasible(int clue, int farVisible, int remaining) {
+        int low = farVisible + (remaining == 0 ? 0 : 1);
+        return low <= clue && clue <= farVisible + this.count[remaining];
+    }
+
+    /**
+     * [DIM]
+     */
+    @Override
+    public String toString() {
+        return "VisibilityTable[" + this.dim + "]";
+    }
+}